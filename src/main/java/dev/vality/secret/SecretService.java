@@ -13,6 +13,7 @@ public interface SecretService {
      * @param path        - путь, по которому в vault хранятся секреты одного терминала. Хранится в options платежа.
      * @return - kv всех секретов этого терминала, например {'TERMINAL_ID':'user11', 'PASSWORD':'Parolec1'}
      * @throws SecretPathNotFoundException если путь не найден
+     * @throws VaultCallRejectedException если задан ограничитель запросов и лимит для serviceName исчерпан
      */
     Map<String, SecretValue> getSecrets(String serviceName, String path) throws SecretPathNotFoundException;
 
@@ -23,6 +24,7 @@ public interface SecretService {
      * @param path        - путь, по которому в vault хранятся секреты одного терминала. Хранится в options платежа.
      * @return - kv всех секретов этого терминала и версию хранаилища, например, {{'key':'key11', 'pass':'pass'},42}
      * @throws SecretsNotFoundException если путь не найден или значения пустые
+     * @throws VaultCallRejectedException если задан ограничитель запросов и лимит для serviceName исчерпан
      */
     VersionedSecret getVersionSecrets(String serviceName, String path) throws SecretsNotFoundException;
 
@@ -33,6 +35,7 @@ public interface SecretService {
      * @param secretRef   Идентификатор секрета, например, SecretRef{'882347345', 'PASSWORD'}
      * @return Возвращает секрет
      * @throws SecretNotFoundException если секрет не найден
+     * @throws VaultCallRejectedException если задан ограничитель запросов и лимит для serviceName исчерпан
      */
     SecretValue getSecret(String serviceName, SecretRef secretRef) throws SecretNotFoundException;
 
@@ -46,6 +49,7 @@ public interface SecretService {
      * @return Возвращает подпись
      * @throws SecretNotFoundException если секрет не найден
      * @throws HexDecodeException      если секрет не в hex-формате
+     * @throws VaultCallRejectedException если задан ограничитель запросов и лимит для serviceName исчерпан
      */
     String hmac(String serviceName, String data, SecretRef secretRef, HmacAlgorithms hmacAlgorithm)
             throws SecretNotFoundException, HexDecodeException;
@@ -59,6 +63,7 @@ public interface SecretService {
      * @param digestAlgorithm Алгоритм хэширования, например, MD5
      * @return Возвращает подпись
      * @throws SecretNotFoundException если секрет не найден
+     * @throws VaultCallRejectedException если задан ограничитель запросов и лимит для serviceName исчерпан
      */
     String digest(String serviceName, String data, SecretRef secretRef, DigestAlgorithms digestAlgorithm)
             throws SecretNotFoundException;
@@ -68,6 +73,7 @@ public interface SecretService {
      *
      * @param serviceName - имя сервиса, для которого сохраняются секреты. Хранится в настройках сервиса.
      * @param secretObj   - объект с секретами, {@link SecretObj}
+     * @throws VaultCallRejectedException если задан ограничитель запросов и лимит для serviceName исчерпан
      */
     void writeSecret(String serviceName, SecretObj secretObj);
 
@@ -77,6 +83,7 @@ public interface SecretService {
      * @param serviceName - имя сервиса, для которого сохраняются секреты. Хранится в настройках сервиса.
      * @param secretObj   - объект с секретами, {@link SecretObj}
      * @return Возвращает версию созданного хранилища для терминала
+     * @throws VaultCallRejectedException если задан ограничитель запросов и лимит для serviceName исчерпан
      */
     Integer writeVersionSecret(String serviceName, SecretObj secretObj);
 
@@ -88,6 +95,7 @@ public interface SecretService {
      * @param version     - значение текущей версии секретов, которая требует обновления.
      * @return Возвращает обновленную версию хранилища для терминала
      * @throws SecretAlreadyModifyException в случае некорректной версии
+     * @throws VaultCallRejectedException если задан ограничитель запросов и лимит для serviceName исчерпан
      */
     Integer writeWithCas(String serviceName, SecretObj secretObj, Integer version)
             throws SecretAlreadyModifyException;
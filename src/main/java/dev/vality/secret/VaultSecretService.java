@@ -1,7 +1,7 @@
 package dev.vality.secret;
 
 import dev.vality.secret.exception.*;
-import lombok.RequiredArgsConstructor;
+import dev.vality.secret.limit.VaultCallLimiter;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.vault.VaultException;
@@ -10,18 +10,33 @@ import org.springframework.vault.support.Versioned;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static dev.vality.secret.exception.SecretAlreadyModifyException.CAS_ERROR_MESSAGE;
 
-@RequiredArgsConstructor
 public class VaultSecretService implements SecretService {
 
     private final VaultTemplate vaultTemplate;
+    private final VaultCallLimiter callLimiter;
+
+    public VaultSecretService(VaultTemplate vaultTemplate) {
+        this(vaultTemplate, null);
+    }
+
+    /**
+     * @param callLimiter - ограничитель параллельных запросов в vault по serviceName, null - без ограничений.
+     *                    Если ограничитель задан, любой метод сервиса может выбросить
+     *                    {@link VaultCallRejectedException}, когда лимит для serviceName исчерпан
+     */
+    public VaultSecretService(VaultTemplate vaultTemplate, VaultCallLimiter callLimiter) {
+        this.vaultTemplate = vaultTemplate;
+        this.callLimiter = callLimiter;
+    }
 
     @Override
     public Map<String, SecretValue> getSecrets(String serviceName, String path) throws SecretPathNotFoundException {
-        var map = vaultTemplate.opsForVersionedKeyValue(serviceName).get(path);
+        var map = call(serviceName, () -> vaultTemplate.opsForVersionedKeyValue(serviceName).get(path));
         if (map == null || map.getData() == null) {
             throw new SecretPathNotFoundException(path);
         }
@@ -31,7 +46,7 @@ public class VaultSecretService implements SecretService {
 
     @Override
     public VersionedSecret getVersionSecrets(String serviceName, String path) throws SecretPathNotFoundException {
-        var map = vaultTemplate.opsForVersionedKeyValue(serviceName).get(path);
+        var map = call(serviceName, () -> vaultTemplate.opsForVersionedKeyValue(serviceName).get(path));
         if (map == null || !map.hasData() || CollectionUtils.isEmpty(map.getData()) || isEmptyValues(map)) {
             throw new SecretsNotFoundException("Secrets doesn't exist or empty for path %s".formatted(path));
         }
@@ -68,13 +83,16 @@ public class VaultSecretService implements SecretService {
 
     @Override
     public void writeSecret(String serviceName, SecretObj secretObj) {
-        vaultTemplate.opsForVersionedKeyValue(serviceName).put(secretObj.getPath(), secretObj.getValues());
+        call(serviceName,
+                () -> vaultTemplate.opsForVersionedKeyValue(serviceName)
+                        .put(secretObj.getPath(), secretObj.getValues()));
     }
 
     @Override
     public Integer writeVersionSecret(String serviceName, SecretObj secretObj) {
-        Versioned.Metadata metadata =
-                vaultTemplate.opsForVersionedKeyValue(serviceName).put(secretObj.getPath(), secretObj.getValues());
+        Versioned.Metadata metadata = call(serviceName,
+                () -> vaultTemplate.opsForVersionedKeyValue(serviceName)
+                        .put(secretObj.getPath(), secretObj.getValues()));
         return metadata.getVersion().getVersion();
     }
 
@@ -82,7 +100,8 @@ public class VaultSecretService implements SecretService {
     public Integer writeWithCas(String serviceName, SecretObj secretObj, Integer version) {
         try {
             var versionedBody = Versioned.create(secretObj.getValues(), Versioned.Version.from(version));
-            var metadata = vaultTemplate.opsForVersionedKeyValue(serviceName).put(secretObj.getPath(), versionedBody);
+            var metadata = call(serviceName,
+                    () -> vaultTemplate.opsForVersionedKeyValue(serviceName).put(secretObj.getPath(), versionedBody));
             return metadata.getVersion().getVersion();
         } catch (VaultException e) {
             if (isCasError(e)) {
@@ -97,10 +116,15 @@ public class VaultSecretService implements SecretService {
     }
 
     private String getSecretString(String serviceName, SecretRef secretRef) throws SecretNotFoundException {
-        var map = vaultTemplate.opsForVersionedKeyValue(serviceName).get(secretRef.getPath());
+        var map = call(serviceName,
+                () -> vaultTemplate.opsForVersionedKeyValue(serviceName).get(secretRef.getPath()));
         if (map == null || map.getData() == null || map.getData().get(secretRef.getKey()) == null) {
             throw new SecretNotFoundException(secretRef.toString());
         }
         return map.getData().get(secretRef.getKey()).toString();
     }
+
+    private <T> T call(String serviceName, Supplier<T> vaultCall) {
+        return callLimiter == null ? vaultCall.get() : callLimiter.execute(serviceName, vaultCall);
+    }
 }
@@ -0,0 +1,11 @@
+package dev.vality.secret.exception;
+
+public class VaultCallRejectedException extends RuntimeException {
+    public VaultCallRejectedException(String message) {
+        super(message);
+    }
+
+    public VaultCallRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
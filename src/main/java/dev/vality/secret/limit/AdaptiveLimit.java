@@ -0,0 +1,89 @@
+package dev.vality.secret.limit;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD-лимит: растет на единицу при успешных запросах под нагрузкой
+ * и уменьшается в backoffRatio раз при медленных или упавших запросах.
+ * Ожидающие запросы получают освободившиеся места в порядке очереди, новые запросы их не обгоняют.
+ */
+class AdaptiveLimit {
+
+    private final VaultCallLimiterProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Deque<Object> waiters = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+    private long rejected;
+
+    AdaptiveLimit(VaultCallLimiterProperties properties) {
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+    }
+
+    boolean tryAcquire() throws InterruptedException {
+        long nanos = properties.getMaxQueueTime().toNanos();
+        lock.lock();
+        try {
+            if (waiters.isEmpty() && inFlight < currentLimit()) {
+                inFlight++;
+                return true;
+            }
+            if (waiters.size() >= properties.getMaxQueueSize() || nanos <= 0) {
+                rejected++;
+                return false;
+            }
+            Object waiter = new Object();
+            waiters.addLast(waiter);
+            try {
+                while (waiters.peekFirst() != waiter || inFlight >= currentLimit()) {
+                    if (nanos <= 0) {
+                        rejected++;
+                        return false;
+                    }
+                    nanos = released.awaitNanos(nanos);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiters.remove(waiter);
+                released.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(long latencyNanos, boolean dropped) {
+        lock.lock();
+        try {
+            int requests = inFlight--;
+            if (dropped || latencyNanos > properties.getLatencyThreshold().toNanos()) {
+                limit = Math.max(properties.getMinLimit(), limit * properties.getBackoffRatio());
+            } else if (requests * 2 >= limit) {
+                limit = Math.min(properties.getMaxLimit(), limit + 1);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    VaultCallLimitSnapshot snapshot(String serviceName) {
+        lock.lock();
+        try {
+            return new VaultCallLimitSnapshot(serviceName, currentLimit(), inFlight, waiters.size(), rejected);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+}
@@ -0,0 +1,24 @@
+package dev.vality.secret.limit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * Текущее состояние ограничителя для одного serviceName
+ * limit - допустимое число одновременных запросов
+ * inFlight - число выполняющихся запросов
+ * queueDepth - число запросов, ожидающих освобождения лимита
+ * rejected - число отклоненных запросов с момента создания
+ */
+
+@Data
+@ToString
+@AllArgsConstructor
+public class VaultCallLimitSnapshot {
+    private String serviceName;
+    private int limit;
+    private int inFlight;
+    private int queueDepth;
+    private long rejected;
+}
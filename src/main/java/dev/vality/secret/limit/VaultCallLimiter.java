@@ -0,0 +1,91 @@
+package dev.vality.secret.limit;
+
+import dev.vality.secret.exception.VaultCallRejectedException;
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Ограничивает число одновременных запросов в vault отдельно для каждого serviceName,
+ * чтобы всплеск нагрузки одного сервиса не замедлял остальные.
+ * Лимит подстраивается под время ответа vault, лишние запросы ждут в очереди не дольше maxQueueTime.
+ */
+public class VaultCallLimiter {
+
+    private final VaultCallLimiterProperties properties;
+    private final Map<String, AdaptiveLimit> limits = new ConcurrentHashMap<>();
+
+    public VaultCallLimiter() {
+        this(VaultCallLimiterProperties.builder().build());
+    }
+
+    public VaultCallLimiter(VaultCallLimiterProperties properties) {
+        Assert.isTrue(properties.getMinLimit() > 0, "minLimit must be positive");
+        Assert.isTrue(properties.getMinLimit() <= properties.getInitialLimit()
+                && properties.getInitialLimit() <= properties.getMaxLimit(),
+                "initialLimit must be between minLimit and maxLimit");
+        Assert.isTrue(properties.getBackoffRatio() > 0 && properties.getBackoffRatio() < 1,
+                "backoffRatio must be between 0 and 1");
+        Assert.isTrue(properties.getMaxQueueSize() >= 0, "maxQueueSize must not be negative");
+        Assert.notNull(properties.getLatencyThreshold(), "latencyThreshold must not be null");
+        Assert.notNull(properties.getMaxQueueTime(), "maxQueueTime must not be null");
+        this.properties = properties;
+    }
+
+    /**
+     * Выполняет запрос в vault в рамках лимита сервиса
+     *
+     * @param serviceName - имя сервиса, для которого выполняется запрос
+     * @param call        - запрос в vault
+     * @return результат запроса
+     * @throws VaultCallRejectedException если лимит исчерпан и место в очереди не освободилось вовремя
+     */
+    public <T> T execute(String serviceName, Supplier<T> call) throws VaultCallRejectedException {
+        AdaptiveLimit limit = limits.computeIfAbsent(serviceName, name -> new AdaptiveLimit(properties));
+        acquire(serviceName, limit);
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            dropped = isOverload(e);
+            throw e;
+        } finally {
+            limit.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    public Optional<VaultCallLimitSnapshot> getSnapshot(String serviceName) {
+        return Optional.ofNullable(limits.get(serviceName))
+                .map(limit -> limit.snapshot(serviceName));
+    }
+
+    public Map<String, VaultCallLimitSnapshot> getSnapshots() {
+        return limits.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().snapshot(e.getKey())));
+    }
+
+    private static void acquire(String serviceName, AdaptiveLimit limit) {
+        try {
+            if (!limit.tryAcquire()) {
+                throw new VaultCallRejectedException("Vault call limit exceeded for service %s".formatted(serviceName));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VaultCallRejectedException(
+                    "Interrupted while waiting vault call limit for service %s".formatted(serviceName), e);
+        }
+    }
+
+    private static boolean isOverload(RuntimeException e) {
+        return e instanceof ResourceAccessException
+                || e instanceof VaultException && e.getCause() instanceof HttpServerErrorException;
+    }
+}
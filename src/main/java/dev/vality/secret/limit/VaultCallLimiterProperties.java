@@ -0,0 +1,36 @@
+package dev.vality.secret.limit;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Настройки ограничителя параллельных запросов в vault, применяются к каждому serviceName отдельно
+ * initialLimit - стартовое число одновременных запросов
+ * minLimit, maxLimit - границы, в которых меняется лимит
+ * backoffRatio - множитель, на который уменьшается лимит при перегрузке vault
+ * latencyThreshold - время ответа, после которого запрос считается признаком перегрузки
+ * maxQueueSize - сколько запросов может ждать освобождения лимита, остальные отклоняются сразу
+ * maxQueueTime - сколько запрос может ждать в очереди, прежде чем будет отклонен
+ */
+
+@Value
+@Builder
+public class VaultCallLimiterProperties {
+
+    @Builder.Default
+    private int initialLimit = 20;
+    @Builder.Default
+    private int minLimit = 1;
+    @Builder.Default
+    private int maxLimit = 200;
+    @Builder.Default
+    private double backoffRatio = 0.9;
+    @Builder.Default
+    private Duration latencyThreshold = Duration.ofSeconds(1);
+    @Builder.Default
+    private int maxQueueSize = 50;
+    @Builder.Default
+    private Duration maxQueueTime = Duration.ofMillis(100);
+}
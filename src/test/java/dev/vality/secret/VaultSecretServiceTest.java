@@ -1,6 +1,8 @@
 package dev.vality.secret;
 
 import dev.vality.secret.exception.*;
+import dev.vality.secret.limit.VaultCallLimitSnapshot;
+import dev.vality.secret.limit.VaultCallLimiter;
 import dev.vality.secret.utils.HmacEncryption;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.jupiter.api.BeforeAll;
@@ -30,6 +32,8 @@ public class VaultSecretServiceTest {
     public static final String TOKEN_EXP_DATE = "token_exp_date";
     public static final String TOKEN_EXP_DATE_VALUE = "2023-04-20T12:26:17.191286";
     private static VaultSecretService vaultService;
+    private static VaultCallLimiter callLimiter;
+    private static VaultSecretService limitedVaultService;
 
     private static final String TEST_PATH = "test-terminal-123";
     private static final String TEST_TOKEN_PATH = "test-terminal-345";
@@ -54,6 +58,8 @@ public class VaultSecretServiceTest {
                         HMAC_KEY, ""
                 ));
         vaultService = new VaultSecretService(vaultTemplate);
+        callLimiter = new VaultCallLimiter();
+        limitedVaultService = new VaultSecretService(vaultTemplate, callLimiter);
     }
 
     @Test
@@ -208,4 +214,29 @@ public class VaultSecretServiceTest {
         assertEquals(version + 1, newVersion);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void getSecretWithCallLimiter() {
+        assertEquals(SIMPLE_SECRET,
+                limitedVaultService.getSecret(SERVICE_NAME, new SecretRef(TEST_PATH, SIMPLE_KEY)).getValue());
+        assertThrows(SecretNotFoundException.class,
+                () -> limitedVaultService.getSecret(SERVICE_NAME, new SecretRef(TEST_PATH, "der")));
+
+        VaultCallLimitSnapshot snapshot = callLimiter.getSnapshot(SERVICE_NAME).orElseThrow();
+        assertEquals(0, snapshot.getInFlight());
+        assertEquals(0, snapshot.getQueueDepth());
+        assertEquals(0, snapshot.getRejected());
+    }
+
+    @Test
+    void writeWithCasErrorWithCallLimiter() {
+        SecretObj secretObj = new SecretObj(TEST_TOKEN_PATH, Map.of(TOKEN, TOKEN_VALUE));
+        Integer version = limitedVaultService.writeVersionSecret(SERVICE_NAME, secretObj);
+        int limit = callLimiter.getSnapshot(SERVICE_NAME).orElseThrow().getLimit();
+
+        assertThrows(SecretAlreadyModifyException.class,
+                () -> limitedVaultService.writeWithCas(SERVICE_NAME, secretObj, version + 1));
+
+        assertTrue(callLimiter.getSnapshot(SERVICE_NAME).orElseThrow().getLimit() >= limit);
+    }
+}
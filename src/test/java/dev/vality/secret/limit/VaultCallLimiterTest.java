@@ -0,0 +1,234 @@
+package dev.vality.secret.limit;
+
+import dev.vality.secret.exception.VaultCallRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.vault.VaultException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static dev.vality.secret.exception.SecretAlreadyModifyException.CAS_ERROR_MESSAGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VaultCallLimiterTest {
+
+    private static final String SERVICE_NAME = "adapter-vtb";
+    private static final String OTHER_SERVICE_NAME = "adapter-sber";
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void rejectWhenLimitAndQueueExhausted() throws InterruptedException {
+        VaultCallLimiter limiter = new VaultCallLimiter(VaultCallLimiterProperties.builder()
+                .initialLimit(1)
+                .maxQueueSize(0)
+                .build());
+        CountDownLatch finish = holdSlot(limiter);
+
+        assertThrows(VaultCallRejectedException.class, () -> limiter.execute(SERVICE_NAME, () -> "secret"));
+        assertEquals("secret", limiter.execute(OTHER_SERVICE_NAME, () -> "secret"));
+
+        VaultCallLimitSnapshot snapshot = limiter.getSnapshot(SERVICE_NAME).orElseThrow();
+        assertEquals(1, snapshot.getInFlight());
+        assertEquals(1, snapshot.getRejected());
+        assertEquals(0, limiter.getSnapshot(OTHER_SERVICE_NAME).orElseThrow().getRejected());
+        finish.countDown();
+    }
+
+    @Test
+    void rejectQueuedCallAfterMaxQueueTime() throws InterruptedException {
+        VaultCallLimiter limiter = new VaultCallLimiter(VaultCallLimiterProperties.builder()
+                .initialLimit(1)
+                .maxQueueSize(1)
+                .maxQueueTime(Duration.ofMillis(50))
+                .build());
+        CountDownLatch finish = holdSlot(limiter);
+
+        assertThrows(VaultCallRejectedException.class, () -> limiter.execute(SERVICE_NAME, () -> "secret"));
+
+        VaultCallLimitSnapshot snapshot = limiter.getSnapshot(SERVICE_NAME).orElseThrow();
+        assertEquals(1, snapshot.getRejected());
+        assertEquals(0, snapshot.getQueueDepth());
+        finish.countDown();
+    }
+
+    @Test
+    void waitInQueueUntilLimitReleased() throws Exception {
+        VaultCallLimiter limiter = new VaultCallLimiter(VaultCallLimiterProperties.builder()
+                .initialLimit(1)
+                .maxQueueSize(1)
+                .maxQueueTime(Duration.ofSeconds(TIMEOUT_SECONDS))
+                .build());
+        CountDownLatch finish = holdSlot(limiter);
+
+        var queued = executor.submit(() -> limiter.execute(SERVICE_NAME, () -> "secret"));
+        awaitQueueDepth(limiter, 1);
+        finish.countDown();
+
+        assertEquals("secret", queued.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(0, limiter.getSnapshot(SERVICE_NAME).orElseThrow().getQueueDepth());
+    }
+
+    @Test
+    void queuedCallIsNotOvertakenByNewCall() throws Exception {
+        VaultCallLimiter limiter = new VaultCallLimiter(VaultCallLimiterProperties.builder()
+                .initialLimit(1)
+                .maxLimit(1)
+                .maxQueueSize(2)
+                .maxQueueTime(Duration.ofSeconds(TIMEOUT_SECONDS))
+                .build());
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch finish = holdSlot(limiter);
+
+        var queued = executor.submit(() -> limiter.execute(SERVICE_NAME, () -> order.add("queued")));
+        awaitQueueDepth(limiter, 1);
+        finish.countDown();
+        limiter.execute(SERVICE_NAME, () -> order.add("new"));
+
+        assertTrue(queued.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(List.of("queued", "new"), order);
+        assertEquals(0, limiter.getSnapshot(SERVICE_NAME).orElseThrow().getRejected());
+    }
+
+    @Test
+    void decreaseLimitOnResourceAccessError() {
+        VaultCallLimiter limiter = limiterWithBackoff();
+
+        assertThrows(ResourceAccessException.class, () -> limiter.execute(SERVICE_NAME, () -> {
+            throw new ResourceAccessException("timeout");
+        }));
+
+        assertEquals(5, limiter.getSnapshot(SERVICE_NAME).orElseThrow().getLimit());
+    }
+
+    @Test
+    void decreaseLimitOnServerError() {
+        VaultCallLimiter limiter = limiterWithBackoff();
+
+        assertThrows(VaultException.class, () -> limiter.execute(SERVICE_NAME, () -> {
+            throw new VaultException("Status 503 Service Unavailable",
+                    new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+        }));
+
+        assertEquals(5, limiter.getSnapshot(SERVICE_NAME).orElseThrow().getLimit());
+    }
+
+    @Test
+    void keepLimitOnClientError() {
+        VaultCallLimiter limiter = limiterWithBackoff();
+
+        assertThrows(VaultException.class, () -> limiter.execute(SERVICE_NAME, () -> {
+            throw new VaultException("Status 403 Forbidden", new HttpClientErrorException(HttpStatus.FORBIDDEN));
+        }));
+        assertThrows(VaultException.class, () -> limiter.execute(SERVICE_NAME, () -> {
+            throw new VaultException("Status 400 Bad Request: " + CAS_ERROR_MESSAGE,
+                    new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+        }));
+        assertThrows(VaultException.class, () -> limiter.execute(SERVICE_NAME, () -> {
+            throw new VaultException(CAS_ERROR_MESSAGE);
+        }));
+
+        assertEquals(10, limiter.getSnapshot(SERVICE_NAME).orElseThrow().getLimit());
+    }
+
+    @Test
+    void decreaseLimitOnSlowCall() {
+        VaultCallLimiter limiter = new VaultCallLimiter(VaultCallLimiterProperties.builder()
+                .initialLimit(10)
+                .backoffRatio(0.5)
+                .latencyThreshold(Duration.ofMillis(1))
+                .build());
+
+        limiter.execute(SERVICE_NAME, () -> sleep(Duration.ofMillis(20)));
+
+        assertEquals(5, limiter.getSnapshot(SERVICE_NAME).orElseThrow().getLimit());
+    }
+
+    @Test
+    void increaseLimitUnderLoadUpToMaxLimit() {
+        VaultCallLimiter limiter = new VaultCallLimiter(VaultCallLimiterProperties.builder()
+                .initialLimit(1)
+                .maxLimit(2)
+                .build());
+
+        limiter.execute(SERVICE_NAME, () -> "secret");
+        assertEquals(2, limiter.getSnapshot(SERVICE_NAME).orElseThrow().getLimit());
+
+        limiter.execute(SERVICE_NAME, () -> "secret");
+        assertEquals(2, limiter.getSnapshot(SERVICE_NAME).orElseThrow().getLimit());
+    }
+
+    @Test
+    void keepLimitWithoutLoad() {
+        VaultCallLimiter limiter = new VaultCallLimiter(VaultCallLimiterProperties.builder()
+                .initialLimit(4)
+                .maxLimit(10)
+                .build());
+
+        limiter.execute(SERVICE_NAME, () -> "secret");
+
+        assertEquals(4, limiter.getSnapshot(SERVICE_NAME).orElseThrow().getLimit());
+    }
+
+    private CountDownLatch holdSlot(VaultCallLimiter limiter) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        executor.submit(() -> limiter.execute(SERVICE_NAME, () -> {
+            started.countDown();
+            return await(finish);
+        }));
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        return finish;
+    }
+
+    private static VaultCallLimiter limiterWithBackoff() {
+        return new VaultCallLimiter(VaultCallLimiterProperties.builder()
+                .initialLimit(10)
+                .backoffRatio(0.5)
+                .build());
+    }
+
+    private static void awaitQueueDepth(VaultCallLimiter limiter, int queueDepth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (limiter.getSnapshot(SERVICE_NAME).orElseThrow().getQueueDepth() != queueDepth) {
+            if (System.nanoTime() > deadline) {
+                fail("Queue depth %d was not reached".formatted(queueDepth));
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "secret";
+    }
+
+    private static String sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "secret";
+    }
+}